@@ -0,0 +1,522 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Scanner;
+
+/**
+ * Runs many independent games of Escape-the-Matrix in lockstep for balance sweeps.
+ * Games are processed in blocks of 64; within a block, bit g of a {@code long} belongs to game g
+ * for door availability, the visited mask and item presence, while player positions and lives
+ * sit in parallel primitive arrays. Every game follows the same scripted command list and differs
+ * only by its seed. The rules, and the order in which random numbers are drawn, are the same as in
+ * {@link Game}, so a game here ends exactly like {@code new Game(seed, ...)} fed the same commands.
+ */
+public class BatchSimulator {
+    /** Number of games packed into one {@code long}. */
+    private static final int LANES = 64;
+    /** The size of the square grid, as in {@link Game}. */
+    private static final int SIZE = 5;
+    /** Number of rooms on the grid. */
+    private static final int CELLS = SIZE * SIZE;
+    /** Cell index of the exit room. */
+    private static final int EXIT = CELLS - 1;
+    /** Number of players per game, as in {@link Game}. */
+    private static final int PLAYERS = 3;
+    /** Lives each player starts with, as in {@link Player}. */
+    private static final int START_LIVES = 3;
+    /** Number of rounds per game, as in {@link Game}. */
+    private static final int ROUNDS = 12;
+    /** Number of hidden items placed per game, as in {@link Game}. */
+    private static final int ITEMS = 3;
+    /** Script opcode for ending the current round. Moves are encoded as {@code player * 4 + direction}. */
+    private static final int END_ROUND = -1;
+
+    /** Outcome of a game that reached the exit. */
+    public static final byte WIN = 1;
+    /** Outcome of a game in which all players lost all lives. */
+    public static final byte LOSE = 2;
+    /** Outcome of a game that ran out of rounds. */
+    public static final byte OUT_OF_ROUNDS = 3;
+
+    /** Neighbouring cell for each direction and cell, or -1 at the edge of the grid. */
+    private static final int[] NEXT = new int[Direction.values().length * CELLS];
+
+    static {
+        for (int c = 0; c < CELLS; c++) {
+            int x = c / SIZE;
+            int y = c % SIZE;
+            NEXT[Direction.NORTH.ordinal() * CELLS + c] = x == 0 ? -1 : c - SIZE;
+            NEXT[Direction.SOUTH.ordinal() * CELLS + c] = x == SIZE - 1 ? -1 : c + SIZE;
+            NEXT[Direction.EAST.ordinal() * CELLS + c] = y == SIZE - 1 ? -1 : c + 1;
+            NEXT[Direction.WEST.ordinal() * CELLS + c] = y == 0 ? -1 : c - 1;
+        }
+    }
+
+    /** The command script shared by all games, as given. */
+    private final String[] commands;
+    /** The compiled command script shared by all games. */
+    private final int[] script;
+
+    // Per-block state, reused for every block so the simulation loop does not allocate.
+
+    /** java.util.Random state for each game in the block. */
+    private final long[] rng = new long[LANES];
+    /** Door availability per direction; bit g set if the door is open in game g. */
+    private final long[] doors = new long[Direction.values().length];
+    /** Visited rooms per cell; bit g set if the room was visited in game g. */
+    private final long[] visited = new long[CELLS];
+    /** LifeBoost items per cell; bit g set if the room still hides one in game g. */
+    private final long[] boostItems = new long[CELLS];
+    /** Penalty items per cell; bit g set if the room still hides one in game g. */
+    private final long[] penaltyItems = new long[CELLS];
+    /** Players with lives left; bit g of entry p set if player p of game g can still move. */
+    private final long[] alive = new long[PLAYERS];
+    /** Cell of each player, indexed by {@code player * LANES + game}. */
+    private final int[] cell = new int[PLAYERS * LANES];
+    /** Lives of each player, indexed by {@code player * LANES + game}. */
+    private final int[] lives = new int[PLAYERS * LANES];
+    /** LifeBoosts collected by each player, indexed by {@code player * LANES + game}. */
+    private final int[] boosts = new int[PLAYERS * LANES];
+    /** Outcome of each game in the block, set when it ends. */
+    private final byte[] laneOutcomes = new byte[LANES];
+
+    // Results for all games.
+
+    /** Seed of game 0 in the last run. */
+    private long firstSeed;
+    /** Outcome of each game: {@link #WIN}, {@link #LOSE} or {@link #OUT_OF_ROUNDS}. */
+    private byte[] outcomes = new byte[0];
+    /** Rounds left when each game ended. */
+    private byte[] roundsLeft = new byte[0];
+    /** Final lives of each player, indexed by {@code game * PLAYERS + player}. */
+    private int[] finalLives = new int[0];
+    /** Final LifeBoost count of each player, indexed by {@code game * PLAYERS + player}. */
+    private int[] finalBoosts = new int[0];
+
+    /**
+     * Constructs a simulator that plays the given commands in every game.
+     * Commands use the console syntax of {@link Game}: {@code go P# <direction>} or {@code endround}.
+     * Once the script is exhausted, every remaining round is ended without moves.
+     *
+     * @param commands the command script
+     * @throws IllegalArgumentException if a command is not a valid move or endround
+     */
+    public BatchSimulator(String... commands) {
+        this.commands = commands.clone();
+        script = new int[commands.length];
+        for (int i = 0; i < commands.length; i++) script[i] = compile(commands[i]);
+    }
+
+    /**
+     * Compiles one console command into a script opcode.
+     *
+     * @param command the command text
+     * @return the opcode
+     */
+    private static int compile(String command) {
+        String[] parts = command.trim().split("\\s+");
+        if (parts.length == 1 && parts[0].equalsIgnoreCase("endround")) return END_ROUND;
+        if (parts.length == 3 && parts[0].equalsIgnoreCase("go")) {
+            for (int p = 0; p < PLAYERS; p++) {
+                if (!parts[1].equalsIgnoreCase("P" + (p + 1))) continue;
+                try {
+                    Direction d = Direction.valueOf(parts[2].toUpperCase(Locale.ROOT));
+                    return p * 4 + d.ordinal();
+                } catch (IllegalArgumentException e) {
+                    break;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid script command: " + command);
+    }
+
+    /**
+     * Simulates {@code games} games with seeds {@code firstSeed, firstSeed + 1, ...}.
+     * Results are available through the getters until the next call.
+     *
+     * @param games     the number of games
+     * @param firstSeed the seed of game 0
+     */
+    public void run(int games, long firstSeed) {
+        this.firstSeed = firstSeed;
+        if (outcomes.length != games) {
+            outcomes = new byte[games];
+            roundsLeft = new byte[games];
+            finalLives = new int[games * PLAYERS];
+            finalBoosts = new int[games * PLAYERS];
+        }
+        for (int base = 0; base < games; base += LANES) {
+            int lanes = Math.min(LANES, games - base);
+            runBlock(base, lanes, firstSeed + base);
+        }
+    }
+
+    /**
+     * Plays one block of up to 64 games from setup to the end.
+     *
+     * @param base      index of the first game in the block
+     * @param lanes     number of games in the block
+     * @param firstSeed seed of the first game in the block
+     */
+    private void runBlock(int base, int lanes, long firstSeed) {
+        long active = lanes == LANES ? -1L : (1L << lanes) - 1;
+        setup(active, firstSeed);
+
+        int pc = 0;
+        int rounds = ROUNDS;
+        while (rounds > 0 && active != 0) {
+            rounds--;
+            newRound(active);
+            while (active != 0 && pc < script.length) {
+                int op = script[pc++];
+                if (op == END_ROUND) break;
+                long ended = go(active, op >> 2, op & 3);
+                if (ended != 0) {
+                    record(base, ended, rounds);
+                    active &= ~ended;
+                }
+            }
+        }
+        for (long m = active; m != 0; m &= m - 1) laneOutcomes[Long.numberOfTrailingZeros(m)] = OUT_OF_ROUNDS;
+        record(base, active, 0);
+    }
+
+    /**
+     * Places players and hidden items for every game in the block, as the {@link Game} constructor does.
+     *
+     * @param active    games in the block
+     * @param firstSeed seed of game 0 of the block
+     */
+    private void setup(long active, long firstSeed) {
+        Arrays.fill(visited, 0L);
+        Arrays.fill(boostItems, 0L);
+        Arrays.fill(penaltyItems, 0L);
+        Arrays.fill(cell, 0);
+        Arrays.fill(lives, START_LIVES);
+        Arrays.fill(boosts, 0);
+        for (int p = 0; p < PLAYERS; p++) alive[p] = active;
+        visited[0] = active;
+
+        for (long m = active; m != 0; m &= m - 1) {
+            int g = Long.numberOfTrailingZeros(m);
+            long bit = 1L << g;
+            rng[g] = (firstSeed + g ^ 0x5DEECE66DL) & ((1L << 48) - 1);
+            int placed = 0;
+            while (placed < ITEMS) {
+                int rx = nextInt(g, SIZE);
+                int ry = nextInt(g, SIZE);
+                int c = rx * SIZE + ry;
+                if (c == 0 || c == EXIT) continue;
+                if (((boostItems[c] | penaltyItems[c]) & bit) != 0) continue;
+                if (nextBoolean(g)) boostItems[c] |= bit;
+                else penaltyItems[c] |= bit;
+                placed++;
+            }
+        }
+    }
+
+    /**
+     * Rolls the doors for a new round in every active game, as {@code Game.newRound} does.
+     *
+     * @param active games still running
+     */
+    private void newRound(long active) {
+        long n = 0, e = 0, s = 0, w = 0;
+        for (long m = active; m != 0; m &= m - 1) {
+            int g = Long.numberOfTrailingZeros(m);
+            long bit = 1L << g;
+            if (cell[g] == 0 && cell[LANES + g] == 0 && cell[2 * LANES + g] == 0) {
+                // At start: North and West blocked, East/South random
+                if (nextBoolean(g)) e |= bit;
+                if (nextBoolean(g)) s |= bit;
+            } else {
+                // Elsewhere: reroll until at least one direction is available
+                boolean dn, de, ds, dw;
+                do {
+                    dn = nextBoolean(g);
+                    de = nextBoolean(g);
+                    ds = nextBoolean(g);
+                    dw = nextBoolean(g);
+                } while (!(dn || de || ds || dw));
+                if (dn) n |= bit;
+                if (de) e |= bit;
+                if (ds) s |= bit;
+                if (dw) w |= bit;
+            }
+        }
+        doors[Direction.NORTH.ordinal()] = n;
+        doors[Direction.EAST.ordinal()] = e;
+        doors[Direction.SOUTH.ordinal()] = s;
+        doors[Direction.WEST.ordinal()] = w;
+    }
+
+    /**
+     * Moves player {@code p} in direction {@code d} in every active game, as {@code Game.handleGo} does,
+     * then applies the win and lose checks of {@code Game.start}.
+     *
+     * @param active games still running
+     * @param p      the player index
+     * @param d      the direction ordinal
+     * @return the games that were won or lost by this move
+     */
+    private long go(long active, int p, int d) {
+        long moved = 0;
+        long won = 0;
+        long candidates = active & alive[p] & doors[d];
+        for (long m = candidates; m != 0; m &= m - 1) {
+            int g = Long.numberOfTrailingZeros(m);
+            int i = p * LANES + g;
+            int next = NEXT[d * CELLS + cell[i]];
+            if (next < 0) continue; // At edge: door is not consumed
+
+            long bit = 1L << g;
+            moved |= bit;
+            cell[i] = next;
+
+            // Check for hidden item in the new room
+            if ((penaltyItems[next] & bit) != 0) {
+                lives[i]--;
+                penaltyItems[next] &= ~bit;
+            } else if ((boostItems[next] & bit) != 0) {
+                boosts[i]++;
+                boostItems[next] &= ~bit;
+            }
+
+            // Penalty for revisiting a room alone
+            if ((visited[next] & bit) != 0 && alone(g, p, next)) lives[i]--;
+            visited[next] |= bit;
+
+            if (lives[i] <= 0) alive[p] &= ~bit;
+            if (next == EXIT) won |= bit;
+        }
+        doors[d] &= ~moved;
+
+        long lost = moved & ~won & ~(alive[0] | alive[1] | alive[2]);
+        for (long m = won; m != 0; m &= m - 1) laneOutcomes[Long.numberOfTrailingZeros(m)] = WIN;
+        for (long m = lost; m != 0; m &= m - 1) laneOutcomes[Long.numberOfTrailingZeros(m)] = LOSE;
+        return won | lost;
+    }
+
+    /**
+     * Checks whether player {@code p} is the only player in the given cell.
+     *
+     * @param g the game in the block
+     * @param p the player index
+     * @param c the cell
+     * @return true if no other player of game g is in cell c
+     */
+    private boolean alone(int g, int p, int c) {
+        for (int q = 0; q < PLAYERS; q++)
+            if (q != p && cell[q * LANES + g] == c) return false;
+        return true;
+    }
+
+    /**
+     * Copies the final state of the given games into the result arrays.
+     *
+     * @param base   index of the first game in the block
+     * @param ended  games in the block that have just ended
+     * @param rounds rounds left when they ended
+     */
+    private void record(int base, long ended, int rounds) {
+        for (long m = ended; m != 0; m &= m - 1) {
+            int g = Long.numberOfTrailingZeros(m);
+            outcomes[base + g] = laneOutcomes[g];
+            roundsLeft[base + g] = (byte) rounds;
+            for (int p = 0; p < PLAYERS; p++) {
+                finalLives[(base + g) * PLAYERS + p] = lives[p * LANES + g];
+                finalBoosts[(base + g) * PLAYERS + p] = boosts[p * LANES + g];
+            }
+        }
+    }
+
+    /**
+     * Advances the random state of a game, as {@code java.util.Random.next} does.
+     *
+     * @param g    the game in the block
+     * @param bits number of random bits
+     * @return the random bits
+     */
+    private int next(int g, int bits) {
+        long seed = (rng[g] * 0x5DEECE66DL + 0xBL) & ((1L << 48) - 1);
+        rng[g] = seed;
+        return (int) (seed >>> (48 - bits));
+    }
+
+    /**
+     * Draws a boolean, as {@code java.util.Random.nextBoolean} does.
+     *
+     * @param g the game in the block
+     * @return the random boolean
+     */
+    private boolean nextBoolean(int g) {
+        return next(g, 1) != 0;
+    }
+
+    /**
+     * Draws an int in {@code [0, bound)} for a bound that is not a power of two,
+     * as {@code java.util.Random.nextInt(int)} does.
+     *
+     * @param g     the game in the block
+     * @param bound the exclusive upper bound
+     * @return the random int
+     */
+    private int nextInt(int g, int bound) {
+        int r;
+        for (int u = next(g, 31); u - (r = u % bound) + (bound - 1) < 0; u = next(g, 31)) ;
+        return r;
+    }
+
+    /**
+     * Gets the outcome of a game from the last run.
+     * @param game the game index
+     * @return {@link #WIN}, {@link #LOSE} or {@link #OUT_OF_ROUNDS}
+     */
+    public byte getOutcome(int game) {
+        return outcomes[game];
+    }
+
+    /**
+     * Gets the rounds left when a game from the last run ended.
+     * @param game the game index
+     * @return the rounds left
+     */
+    public int getRoundsLeft(int game) {
+        return roundsLeft[game];
+    }
+
+    /**
+     * Gets the final lives of a player in a game from the last run.
+     * @param game   the game index
+     * @param player the player index (0 for P1)
+     * @return the player's lives
+     */
+    public int getLives(int game, int player) {
+        return finalLives[game * PLAYERS + player];
+    }
+
+    /**
+     * Gets the final LifeBoost count of a player in a game from the last run.
+     * @param game   the game index
+     * @param player the player index (0 for P1)
+     * @return the player's LifeBoost count
+     */
+    public int getLifeBoostCount(int game, int player) {
+        return finalBoosts[game * PLAYERS + player];
+    }
+
+    /**
+     * Plays one game with the reference {@link Game} and checks it against the result of the last run.
+     * The last event published by the game is compared on outcome, rounds left, lives and LifeBoosts.
+     *
+     * @param game the game index
+     * @return null if both agree, otherwise a description of the mismatch
+     */
+    public String verify(int game) {
+        StringBuilder expected = new StringBuilder();
+        Game reference = new Game(firstSeed + game, new Scanner(referenceInput()));
+        reference.getEventBus().subscribe("verify", (e, endOfBatch) -> {
+            if (e.getType() != GameEventType.WIN && e.getType() != GameEventType.LOSE) return;
+            byte outcome = e.getType() == GameEventType.WIN ? WIN
+                    : e.getLoseReason() == GameEvent.LoseReason.OUT_OF_ROUNDS ? OUT_OF_ROUNDS : LOSE;
+            expected.append("outcome=").append(outcome).append(" rounds=").append(e.getRoundsLeft());
+            for (int p = 0; p < PLAYERS; p++)
+                expected.append(" P").append(p + 1).append('=').append(e.getLives(p))
+                        .append('/').append(e.getLifeBoostCount(p));
+        });
+
+        // Silence the welcome text and prompts; start() returns once the subscriber has drained
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            reference.start();
+        } finally {
+            System.setOut(out);
+        }
+
+        StringBuilder actual = new StringBuilder("outcome=" + getOutcome(game) + " rounds=" + getRoundsLeft(game));
+        for (int p = 0; p < PLAYERS; p++)
+            actual.append(" P").append(p + 1).append('=').append(getLives(game, p))
+                    .append('/').append(getLifeBoostCount(game, p));
+        return expected.toString().equals(actual.toString()) ? null
+                : "game " + game + ": expected " + expected + " but was " + actual;
+    }
+
+    /**
+     * Builds the console input that plays the script in {@link Game}.
+     * Extra endround commands make the game run out of rounds once the script is exhausted, as here.
+     *
+     * @return the input text
+     */
+    private String referenceInput() {
+        StringBuilder input = new StringBuilder();
+        for (String c : commands) input.append(c).append('\n');
+        for (int i = 0; i < ROUNDS; i++) input.append("endround\n");
+        return input.toString();
+    }
+
+    /**
+     * Plays games one at a time with the reference {@link Game}, discarding console output.
+     *
+     * @param games     the number of games
+     * @param firstSeed the seed of game 0
+     * @return the elapsed time in nanoseconds
+     */
+    private long timeReference(int games, long firstSeed) {
+        String input = referenceInput();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long t0 = System.nanoTime();
+        try {
+            for (int g = 0; g < games; g++) new Game(firstSeed + g, new Scanner(input)).start();
+        } finally {
+            System.setOut(out);
+        }
+        return System.nanoTime() - t0;
+    }
+
+    /**
+     * Runs a balance sweep with a fixed script, checks a sample against {@link Game},
+     * and compares throughput with running the reference games one at a time.
+     * @param args optional number of games and first seed
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+
+        String[] round = {"go P1 east", "go P1 south", "go P2 south", "go P2 east",
+                "go P3 east", "go P3 north", "endround"};
+        String[] commands = new String[round.length * ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) System.arraycopy(round, 0, commands, i * round.length, round.length);
+
+        BatchSimulator sim = new BatchSimulator(commands);
+        sim.run(games, firstSeed); // warm-up
+        long t0 = System.nanoTime();
+        sim.run(games, firstSeed);
+        long batchNanos = System.nanoTime() - t0;
+
+        int[] counts = new int[4];
+        for (int g = 0; g < games; g++) counts[sim.getOutcome(g)]++;
+        System.out.printf("Games=%d Win=%d Lose=%d OutOfRounds=%d%n",
+                games, counts[WIN], counts[LOSE], counts[OUT_OF_ROUNDS]);
+
+        int sample = Math.min(games, 2_000);
+        int mismatches = 0;
+        for (int g = 0; g < sample; g++) {
+            String error = sim.verify(g);
+            if (error != null && mismatches++ < 10) System.out.println(error);
+        }
+        System.out.printf("Checked %d games against Game: %d mismatches%n", sample, mismatches);
+
+        // Warm up the reference too, and time enough games for a steady rate
+        int referenceGames = Math.min(games, 100_000);
+        sim.timeReference(Math.min(games, 20_000), firstSeed);
+        long referenceNanos = sim.timeReference(referenceGames, firstSeed);
+
+        double batchRate = games / (batchNanos / 1e9);
+        double referenceRate = referenceGames / (referenceNanos / 1e9);
+        System.out.printf("Batch: %.0f games/s  Game: %.0f games/s  Speedup: %.1fx%n",
+                batchRate, referenceRate, batchRate / referenceRate);
+    }
+}
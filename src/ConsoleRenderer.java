@@ -0,0 +1,149 @@
+/**
+ * Renders game events to the console, producing the same text the game used to print directly.
+ * Output for a batch of events is collected and written in one go when the batch ends.
+ */
+public class ConsoleRenderer implements GameEventListener {
+    /**
+     * The size of the square grid (5x5).
+     */
+    private static final int SIZE = 5;
+    /**
+     * Content width of a grid cell (inside brackets).
+     */
+    private static final int CELL_WIDTH = 8;
+
+    /**
+     * Text collected for the current batch.
+     */
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * Appends the text for an event and writes the batch to the console when it ends.
+     *
+     * @param e          the event
+     * @param endOfBatch true if this is the last event currently available
+     */
+    @Override
+    public void onEvent(GameEvent e, boolean endOfBatch) {
+        String name = e.getPlayer() >= 0 ? e.getName(e.getPlayer()) : null;
+        switch (e.getType()) {
+            case ROUND_START:
+                println("----- NEW ROUND -----");
+                appendRoundUpdate(e);
+                appendGrid(e);
+                break;
+
+            case BLOCKED:
+                if (e.getBlocker() == GameEvent.Blocker.NO_LIVES)
+                    println(name + " has no lives left and cannot move.");
+                else if (e.getBlocker() == GameEvent.Blocker.DOOR_USED)
+                    println("Cannot move " + e.getDirection() + " — already used this round.");
+                else
+                    println(name + " cannot move " + e.getDirection() + ". At edge.");
+                break;
+
+            case TRAP:
+                println("TRAP! " + name + " found a Penalty and lost 1 life.");
+                break;
+
+            case LIFE_BOOST:
+                println("LUCKY! " + name + " found a LifeBoost! Added to inventory.");
+                break;
+
+            case REVISIT_PENALTY:
+                println(name + " revisited and lost 1 life. Lives=" + e.getLives(e.getPlayer()));
+                break;
+
+            case MOVED:
+                println(name + " moved " + e.getDirection() + ".");
+                appendRoundUpdate(e);
+                appendGrid(e);
+                break;
+
+            case WIN:
+                println("Player " + name + " reached EXIT! YOU WIN!");
+                break;
+
+            case LOSE:
+                // Losing because all lives are gone has no message of its own
+                if (e.getLoseReason() == GameEvent.LoseReason.OUT_OF_ROUNDS)
+                    println("No rounds remaining. YOU LOSE!");
+                break;
+        }
+
+        if (endOfBatch) {
+            System.out.print(out);
+            System.out.flush();
+            out.setLength(0);
+        }
+    }
+
+    /**
+     * Appends a line of text to the current batch.
+     *
+     * @param line the text
+     */
+    private void println(String line) {
+        out.append(line).append(System.lineSeparator());
+    }
+
+    /**
+     * Appends the current state of the grid, showing player positions and the exit,
+     * followed by player statuses.
+     *
+     * @param e the event holding the snapshot
+     */
+    private void appendGrid(GameEvent e) {
+        println("Current Grid:");
+        for (int i = 0; i < SIZE; i++) {
+            StringBuilder row = new StringBuilder();
+
+            for (int j = 0; j < SIZE; j++) {
+                StringBuilder names = new StringBuilder();
+                for (int p = 0; p < e.getPlayerCount(); p++) {
+                    if (e.getX(p) == i && e.getY(p) == j) {
+                        if (names.length() > 0) names.append(',');
+                        names.append(e.getName(p));
+                    }
+                }
+                String cellContent = names.toString();
+
+                if (i == SIZE - 1 && j == SIZE - 1) {
+                    // Special case for exit room
+                    cellContent = cellContent.isEmpty() ? "EXIT" : cellContent + ", EXIT";
+                }
+
+                // Trim if too long
+                if (cellContent.length() > CELL_WIDTH) {
+                    cellContent = cellContent.substring(0, CELL_WIDTH);
+                }
+                // Pad to fixed width
+                cellContent = String.format("%-" + CELL_WIDTH + "s", cellContent);
+
+                row.append("[").append(cellContent).append("]");
+            }
+
+            println(row.toString());
+        }
+
+        println("--- STATUS ---");
+        for (int p = 0; p < e.getPlayerCount(); p++) {
+            out.append(String.format("%s: Lives=%d Inventory=%d LifeBoosts=%d%n",
+                    e.getName(p), e.getLives(p), e.getInventorySize(p), e.getLifeBoostCount(p)));
+        }
+    }
+
+    /**
+     * Appends the current round information and door availability status.
+     *
+     * @param e the event holding the snapshot
+     */
+    private void appendRoundUpdate(GameEvent e) {
+        println("Rounds left: " + e.getRoundsLeft());
+        out.append(String.format("Door availability: N=%d E=%d S=%d W=%d%n",
+                e.getDoor(Direction.NORTH),
+                e.getDoor(Direction.EAST),
+                e.getDoor(Direction.SOUTH),
+                e.getDoor(Direction.WEST)));
+    }
+}
@@ -26,7 +26,12 @@ public class Game {
     /**
      * Scanner for reading user input from the console.
      */
-    private final Scanner sc = new Scanner(System.in);
+    private final Scanner sc;
+    /**
+     * Random source used for item placement and door rolls.
+     * A single stream per game, so a seeded game is fully reproducible.
+     */
+    private final Random rnd;
 
     /**
      * Map storing the door availability counters for each direction in the current round.
@@ -34,11 +39,47 @@ public class Game {
      */
     private Map<Direction, Integer> roundDoors = new EnumMap<>(Direction.class);
 
+    /**
+     * Bus the rules publish game events to. Rendering and other observers consume it on their own threads.
+     */
+    private final GameEventBus events = new GameEventBus(1024);
+    /**
+     * Subscriptions that print to the console; the prompt waits for them to catch up.
+     */
+    private final List<GameEventBus.Subscription> consoles = new ArrayList<>();
+
     /**
      * Constructor for the Game class.
      * Initializes the grid with rooms, places hidden items randomly, and positions all players at the start.
      */
     public Game() {
+        this(new Random(), new Scanner(System.in));
+        subscribeConsole(new ConsoleRenderer());
+    }
+
+    /**
+     * Constructs a game whose random events are fully determined by the given seed.
+     * Used to replay a game exactly, e.g. when checking {@link BatchSimulator} against this class.
+     * No console renderer is subscribed; observe the game through {@link #getEventBus()}
+     * or {@link #subscribeConsole(GameEventListener)}.
+     *
+     * @param seed the seed for item placement and door rolls
+     * @param sc   the scanner commands are read from
+     */
+    Game(long seed, Scanner sc) {
+        this(new Random(seed), sc);
+    }
+
+    /**
+     * Constructs a game using the given random source and command input.
+     *
+     * @param rnd the random source for item placement and door rolls
+     * @param sc  the scanner commands are read from
+     */
+    private Game(Random rnd, Scanner sc) {
+        this.rnd = rnd;
+        this.sc = sc;
+
         // Initialize grid with default rooms and doors
         for (int i = 0; i < SIZE; i++) {
             for (int j = 0; j < SIZE; j++) {
@@ -55,7 +96,6 @@ public class Game {
         players.add(new Player("P3"));
 
         // Place hidden items in random rooms, avoiding start and exit
-        Random rnd = new Random();
         int toPlace = 3;
         int placed = 0;
         while (placed < toPlace) {
@@ -74,44 +114,75 @@ public class Game {
         grid[0][0].setVisited(true);
     }
 
+    /**
+     * Gets the bus game events are published to, so further observers can subscribe before {@link #start()}.
+     * Subscribers added here are not kept in order with the console prompt; listeners that print to
+     * the console should use {@link #subscribeConsole(GameEventListener)} instead.
+     *
+     * @return the event bus
+     */
+    public GameEventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * Subscribes a listener that prints to the console.
+     * Before each prompt, the game waits until the listener has handled every event published so far.
+     *
+     * @param listener the listener to subscribe
+     * @return the subscription
+     */
+    public GameEventBus.Subscription subscribeConsole(GameEventListener listener) {
+        GameEventBus.Subscription s = events.subscribe("console-" + consoles.size(), listener);
+        consoles.add(s);
+        return s;
+    }
+
     /**
      * Starts the game loop, handling rounds and user commands until win, loss, or exit.
+     * The event bus is closed when the game ends, after all observers have drained it.
      */
     public void start() {
         System.out.println("Welcome to Escape-the-Matrix!");
         System.out.println("Type 'help' for commands.");
-        while (roundsLeft > 0) {
-            newRound();
-            while (true) {
-                System.out.print("> ");
-                String line = sc.nextLine();
-                if (line == null) return;
-                String input = line.trim();
-                if (input.isEmpty()) continue;
-
-                if (input.equalsIgnoreCase("endround")) break;
-                if (input.equalsIgnoreCase("exit")) {
-                    System.out.println("Exiting game. Goodbye!");
-                    return;
-                }
+        try {
+            while (roundsLeft > 0) {
+                newRound();
+                while (true) {
+                    // Let console output finish before prompting
+                    long published = events.getCursor();
+                    for (GameEventBus.Subscription s : consoles) s.awaitProcessed(published);
+                    System.out.print("> ");
+                    String line = sc.nextLine();
+                    if (line == null) return;
+                    String input = line.trim();
+                    if (input.isEmpty()) continue;
+
+                    if (input.equalsIgnoreCase("endround")) break;
+                    if (input.equalsIgnoreCase("exit")) {
+                        System.out.println("Exiting game. Goodbye!");
+                        return;
+                    }
 
-                processCommand(input);
+                    processCommand(input);
 
-                if (checkWin()) return;
-                if (checkLose()) return;
+                    if (checkWin()) return;
+                    if (checkLose()) return;
+                }
             }
+            publish(GameEventType.LOSE, null, null, null, GameEvent.LoseReason.OUT_OF_ROUNDS);
+        } finally {
+            events.close();
         }
-        System.out.println("No rounds remaining. YOU LOSE!");
     }
 
     /**
      * Initializes a new round by decrementing rounds left, resetting door availability,
-     * and printing the grid and status.
+     * and publishing the round start.
      */
     private void newRound() {
         roundsLeft--;
 
-        Random r = new Random();
         boolean atStart = players.stream().allMatch(p -> p.getX() == 0 && p.getY() == 0);
 
         // Reset doors based on position
@@ -121,14 +192,14 @@ public class Game {
             // At start: North and West blocked, East/South random
             roundDoors.put(Direction.NORTH, 0);
             roundDoors.put(Direction.WEST, 0);
-            roundDoors.put(Direction.EAST, r.nextBoolean() ? 1 : 0);
-            roundDoors.put(Direction.SOUTH, r.nextBoolean() ? 1 : 0);
+            roundDoors.put(Direction.EAST, rnd.nextBoolean() ? 1 : 0);
+            roundDoors.put(Direction.SOUTH, rnd.nextBoolean() ? 1 : 0);
         } else {
             // Elsewhere: Random, but ensure at least one direction is available
             boolean ok = false;
             while (!ok) {
                 for (Direction d : Direction.values())
-                    roundDoors.put(d, r.nextBoolean() ? 1 : 0);
+                    roundDoors.put(d, rnd.nextBoolean() ? 1 : 0);
 
                 if (roundDoors.values().stream().anyMatch(v -> v == 1))
                     ok = true;
@@ -140,58 +211,7 @@ public class Game {
             for (int j = 0; j < SIZE; j++)
                 grid[i][j].setDoors(new EnumMap<>(roundDoors));
 
-        System.out.println("----- NEW ROUND -----");
-        printRoundUpdate();
-        printGrid();
-    }
-
-    /**
-     * Prints the current state of the grid, showing player positions and the exit.
-     * Also prints player statuses.
-     */
-    public void printGrid() {
-        final int CELL_WIDTH = 8; // content width (inside brackets)
-
-        System.out.println("Current Grid:");
-        for (int i = 0; i < SIZE; i++) {
-            StringBuilder row = new StringBuilder();
-
-            for (int j = 0; j < SIZE; j++) {
-                List<String> names = new ArrayList<>();
-                for (Player p : players) {
-                    if (p.getX() == i && p.getY() == j) {
-                        names.add(p.getName());
-                    }
-                }
-                String cellContent = "";
-
-                if (i == SIZE - 1 && j == SIZE - 1) {
-                    // Special case for exit room
-                    cellContent = names.isEmpty()
-                            ? "EXIT"
-                            : String.join(",", names) + ", EXIT";
-                } else if (!names.isEmpty()) {
-                    cellContent = String.join(",", names);
-                }
-
-                // Trim if too long
-                if (cellContent.length() > CELL_WIDTH) {
-                    cellContent = cellContent.substring(0, CELL_WIDTH);
-                }
-                // Pad to fixed width
-                cellContent = String.format("%-" + CELL_WIDTH + "s", cellContent);
-
-                row.append("[").append(cellContent).append("]");
-            }
-
-            System.out.println(row);
-        }
-
-        System.out.println("--- STATUS ---");
-        for (Player p : players) {
-            System.out.printf("%s: Lives=%d Inventory=%d LifeBoosts=%d%n",
-                    p.getName(), p.getLives(), p.getInventory().size(), p.getLifeBoostCount());
-        }
+        publish(GameEventType.ROUND_START, null, null);
     }
 
     /**
@@ -236,6 +256,7 @@ public class Game {
     /**
      * Handles the "go" command to move a player in a specified direction.
      * Checks validity, updates positions, deducts doors, applies penalties, and handles items.
+     * Rule outcomes are published as events; only malformed arguments are reported directly.
      *
      * @param playerName the name of the player (e.g., "P1")
      * @param dirText    the direction string (north, east, south, west)
@@ -248,7 +269,7 @@ public class Game {
         }
 
         if (p.getLives() <= 0) {
-            System.out.println(p.getName() + " has no lives left and cannot move.");
+            publish(GameEventType.BLOCKED, p, null, GameEvent.Blocker.NO_LIVES, null);
             return;
         }
 
@@ -263,13 +284,13 @@ public class Game {
         Room current = grid[p.getX()][p.getY()];
 
         if (!current.canMove(d)) {
-            System.out.println("Cannot move " + d + " — already used this round.");
+            publish(GameEventType.BLOCKED, p, d, GameEvent.Blocker.DOOR_USED, null);
             return;
         }
 
         boolean moved = p.move(d);
         if (!moved) {
-            System.out.println(p.getName() + " cannot move " + d + ". At edge.");
+            publish(GameEventType.BLOCKED, p, d, GameEvent.Blocker.EDGE, null);
             return;
         }
 
@@ -291,10 +312,10 @@ public class Game {
         if (item != null) {
             if (item.getType() == ItemType.PENALTY) {
                 p.loseLife(1);
-                System.out.println("TRAP! " + p.getName() + " found a Penalty and lost 1 life.");
+                publish(GameEventType.TRAP, p, d);
             } else if (item.getType() == ItemType.LIFE_BOOST) {
                 p.addItem(item);
-                System.out.println("LUCKY! " + p.getName() + " found a LifeBoost! Added to inventory.");
+                publish(GameEventType.LIFE_BOOST, p, d);
             }
             newRoom.removeHiddenItem();
         }
@@ -303,15 +324,13 @@ public class Game {
         if (newRoom.isVisited()) {
             if (newRoom.getPlayers().size() == 1) {
                 p.loseLife(1);
-                System.out.println(p.getName() + " revisited and lost 1 life. Lives=" + p.getLives());
+                publish(GameEventType.REVISIT_PENALTY, p, d);
             }
         }
 
         newRoom.setVisited(true);
 
-        System.out.println(p.getName() + " moved " + d + ".");
-        printRoundUpdate();
-        printGrid();
+        publish(GameEventType.MOVED, p, d);
     }
 
     /**
@@ -335,7 +354,7 @@ public class Game {
     private boolean checkWin() {
         for (Player p : players) {
             if (p.getX() == SIZE - 1 && p.getY() == SIZE - 1) {
-                System.out.println("Player " + p.getName() + " reached EXIT! YOU WIN!");
+                publish(GameEventType.WIN, p, null);
                 return true;
             }
         }
@@ -348,20 +367,35 @@ public class Game {
      * @return true if all players lost, false otherwise
      */
     private boolean checkLose() {
-        return players.stream().allMatch(p -> p.getLives() <= 0);
+        if (!players.stream().allMatch(p -> p.getLives() <= 0)) return false;
+        publish(GameEventType.LOSE, null, null, null, GameEvent.LoseReason.NO_LIVES);
+        return true;
     }
 
     /**
-     * Prints the current round information and door availability status.
-     * Shows the number of rounds remaining and which doors (North, East, South, West)
-     * are available for movement in the current round.
+     * Publishes an event with a snapshot of the current round and players.
+     *
+     * @param type the event type
+     * @param p    the player the event is about, or null
+     * @param d    the direction of the move, or null
+     */
+    private void publish(GameEventType type, Player p, Direction d) {
+        publish(type, p, d, null, null);
+    }
+
+    /**
+     * Publishes an event with a snapshot of the current round and players.
+     *
+     * @param type       the event type
+     * @param p          the player the event is about, or null
+     * @param d          the direction of the move, or null
+     * @param blocker    why the move was blocked, or null
+     * @param loseReason why the game was lost, or null
      */
-    public void printRoundUpdate() {
-        System.out.println("Rounds left: " + roundsLeft);
-        System.out.printf("Door availability: N=%d E=%d S=%d W=%d%n",
-                roundDoors.get(Direction.NORTH),
-                roundDoors.get(Direction.EAST),
-                roundDoors.get(Direction.SOUTH),
-                roundDoors.get(Direction.WEST));
+    private void publish(GameEventType type, Player p, Direction d,
+                         GameEvent.Blocker blocker, GameEvent.LoseReason loseReason) {
+        GameEvent e = events.claim();
+        e.set(type, p == null ? -1 : players.indexOf(p), d, blocker, loseReason, roundsLeft, roundDoors, players);
+        events.publish();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game event held in a slot of the {@link GameEventBus} ring buffer.
+ * Slots are preallocated and overwritten in place, so each event carries a snapshot of the
+ * state consumers need (round, doors and all players) rather than references to live game objects.
+ */
+public class GameEvent {
+    /**
+     * Why a move was blocked, for {@link GameEventType#BLOCKED} events.
+     */
+    public enum Blocker {
+        /** The player has no lives left. */
+        NO_LIVES,
+        /** The door in that direction is not available this round. */
+        DOOR_USED,
+        /** The move would leave the grid. */
+        EDGE
+    }
+
+    /**
+     * Why the game was lost, for {@link GameEventType#LOSE} events.
+     */
+    public enum LoseReason {
+        /** All players lost all lives. */
+        NO_LIVES,
+        /** No rounds are remaining. */
+        OUT_OF_ROUNDS
+    }
+
+    /** All directions, cached to avoid cloning {@link Direction#values()} on every event. */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /** The type of the event. */
+    private GameEventType type;
+    /** Index of the player the event is about, or -1 if none. */
+    private int player;
+    /** The direction of the move, or null if none. */
+    private Direction direction;
+    /** Why the move was blocked, or null if it was not. */
+    private Blocker blocker;
+    /** Why the game was lost, or null if it was not. */
+    private LoseReason loseReason;
+    /** The number of rounds remaining. */
+    private int roundsLeft;
+    /** Door availability (0 or 1) indexed by direction ordinal. */
+    private final int[] doors = new int[DIRECTIONS.length];
+    /** Player names. */
+    private String[] names = new String[0];
+    /** Player x-coordinates. */
+    private int[] x = new int[0];
+    /** Player y-coordinates. */
+    private int[] y = new int[0];
+    /** Player lives. */
+    private int[] lives = new int[0];
+    /** Player inventory sizes. */
+    private int[] inventory = new int[0];
+    /** Player LifeBoost counts. */
+    private int[] lifeBoosts = new int[0];
+
+    /**
+     * Fills this slot with a new event and a snapshot of the game state.
+     * @param type       the event type
+     * @param player     index of the player the event is about, or -1
+     * @param direction  the direction of the move, or null
+     * @param blocker    why the move was blocked, or null
+     * @param loseReason why the game was lost, or null
+     * @param roundsLeft the number of rounds remaining
+     * @param roundDoors the door availability of the current round
+     * @param players    all players
+     */
+    void set(GameEventType type, int player, Direction direction, Blocker blocker, LoseReason loseReason,
+             int roundsLeft, Map<Direction, Integer> roundDoors, List<Player> players) {
+        this.type = type;
+        this.player = player;
+        this.direction = direction;
+        this.blocker = blocker;
+        this.loseReason = loseReason;
+        this.roundsLeft = roundsLeft;
+        for (Direction d : DIRECTIONS) doors[d.ordinal()] = roundDoors.getOrDefault(d, 0);
+
+        int n = players.size();
+        if (names.length != n) {
+            names = new String[n];
+            x = new int[n];
+            y = new int[n];
+            lives = new int[n];
+            inventory = new int[n];
+            lifeBoosts = new int[n];
+        }
+        for (int i = 0; i < n; i++) {
+            Player p = players.get(i);
+            names[i] = p.getName();
+            x[i] = p.getX();
+            y[i] = p.getY();
+            lives[i] = p.getLives();
+            inventory[i] = p.getInventory().size();
+            lifeBoosts[i] = p.getLifeBoostCount();
+        }
+    }
+
+    /**
+     * Gets the type of the event.
+     * @return the event type
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the index of the player the event is about.
+     * @return the player index, or -1 if none
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the direction of the move.
+     * @return the direction, or null if none
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets why the move was blocked.
+     * @return the blocker, or null if the event is not {@link GameEventType#BLOCKED}
+     */
+    public Blocker getBlocker() {
+        return blocker;
+    }
+
+    /**
+     * Gets why the game was lost.
+     * @return the reason, or null if the event is not {@link GameEventType#LOSE}
+     */
+    public LoseReason getLoseReason() {
+        return loseReason;
+    }
+
+    /**
+     * Gets the number of rounds remaining.
+     * @return the rounds left
+     */
+    public int getRoundsLeft() {
+        return roundsLeft;
+    }
+
+    /**
+     * Gets the availability of a door in the current round.
+     * @param d the direction
+     * @return 1 if available, 0 otherwise
+     */
+    public int getDoor(Direction d) {
+        return doors[d.ordinal()];
+    }
+
+    /**
+     * Gets the number of players in the snapshot.
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return names.length;
+    }
+
+    /**
+     * Gets a player's name.
+     * @param i the player index
+     * @return the name
+     */
+    public String getName(int i) {
+        return names[i];
+    }
+
+    /**
+     * Gets a player's x-coordinate.
+     * @param i the player index
+     * @return the x-coordinate
+     */
+    public int getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Gets a player's y-coordinate.
+     * @param i the player index
+     * @return the y-coordinate
+     */
+    public int getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Gets a player's lives.
+     * @param i the player index
+     * @return the number of lives
+     */
+    public int getLives(int i) {
+        return lives[i];
+    }
+
+    /**
+     * Gets a player's inventory size.
+     * @param i the player index
+     * @return the number of items
+     */
+    public int getInventorySize(int i) {
+        return inventory[i];
+    }
+
+    /**
+     * Gets a player's LifeBoost count.
+     * @param i the player index
+     * @return the number of LifeBoost items
+     */
+    public int getLifeBoostCount(int i) {
+        return lifeBoosts[i];
+    }
+}
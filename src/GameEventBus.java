@@ -0,0 +1,212 @@
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single-producer, multi-consumer ring buffer of {@link GameEvent}s.
+ * The game thread claims a preallocated slot, fills it and publishes it; each subscriber drains
+ * published events in batches on its own thread. Publishing never waits on consumers unless one of
+ * them has fallen a full ring behind, so the rules do not block on output. Idle consumers spin briefly
+ * and then park until the next publish, so they use no CPU while the game waits for input.
+ */
+public class GameEventBus {
+    /** Number of empty polls a consumer spins for before parking. */
+    private static final int SPINS = 100;
+
+    /** The preallocated event slots. */
+    private final GameEvent[] ring;
+    /** Mask mapping a sequence number to a slot index. */
+    private final int mask;
+    /** Sequence of the last published event. */
+    private final AtomicLong cursor = new AtomicLong(-1);
+    /** Sequence of the last claimed event; only touched by the producer. */
+    private long claimed = -1;
+    /** Lowest subscriber sequence seen by the producer; only touched by the producer. */
+    private long cachedGate = -1;
+    /** The subscribers draining this bus. */
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    /** Whether the bus has been closed. */
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs a bus with the given number of slots.
+     * @param capacity the number of slots, a power of two
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        ring = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) ring[i] = new GameEvent();
+        mask = capacity - 1;
+    }
+
+    /**
+     * Starts a consumer thread that passes every event published from now on to the listener.
+     * @param name     the name of the consumer thread
+     * @param listener the listener to call
+     * @return the subscription, which can be used to wait for the consumer to catch up
+     * @throws IllegalStateException if the bus has been closed
+     */
+    public Subscription subscribe(String name, GameEventListener listener) {
+        if (closed) throw new IllegalStateException("Event bus is closed.");
+        Subscription s = new Subscription(listener, cursor.get());
+        subscriptions.add(s);
+        Thread t = new Thread(s::run, name);
+        t.setDaemon(true);
+        s.thread = t;
+        t.start();
+        return s;
+    }
+
+    /**
+     * Claims the next slot for the producer to fill. Waits only if a subscriber is a full ring behind.
+     * Must be followed by {@link #publish()}.
+     * @return the slot to fill
+     */
+    GameEvent claim() {
+        long next = claimed + 1;
+        long wrap = next - ring.length;
+        if (wrap > cachedGate) {
+            long gate;
+            while (wrap > (gate = minSequence(next - 1)))
+                for (Subscription s : subscriptions) s.awaitProcessed(wrap);
+            cachedGate = gate;
+        }
+        claimed = next;
+        return ring[(int) (next & mask)];
+    }
+
+    /**
+     * Makes the last claimed slot visible to subscribers and wakes those that are parked.
+     */
+    void publish() {
+        cursor.set(claimed);
+        for (Subscription s : subscriptions)
+            if (s.parked) LockSupport.unpark(s.thread);
+    }
+
+    /**
+     * Gets the sequence of the last published event.
+     * @return the sequence, or -1 if nothing was published
+     */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Finds the lowest sequence processed by any subscriber.
+     * @param fallback the value to return if there are no subscribers
+     * @return the lowest subscriber sequence
+     */
+    private long minSequence(long fallback) {
+        long min = fallback;
+        for (Subscription s : subscriptions) min = Math.min(min, s.sequence.get());
+        return min;
+    }
+
+    /**
+     * Closes the bus, letting every subscriber drain the remaining events and waiting for them to finish.
+     */
+    public void close() {
+        closed = true;
+        for (Subscription s : subscriptions) LockSupport.unpark(s.thread);
+        for (Subscription s : subscriptions) {
+            try {
+                s.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A consumer of the bus running on its own thread.
+     */
+    public class Subscription {
+        /** The listener events are passed to. */
+        private final GameEventListener listener;
+        /** Sequence of the last event processed. */
+        private final AtomicLong sequence;
+        /** The consumer thread. */
+        private Thread thread;
+        /** Whether the consumer thread is parked, or about to park, waiting for a publish. */
+        private volatile boolean parked = false;
+        /** Whether the consumer thread has drained the closed bus and stopped. */
+        private volatile boolean finished = false;
+        /** Thread waiting in {@link #awaitProcessed(long)}, or null if none. */
+        private volatile Thread waiter = null;
+
+        /**
+         * Constructs a subscription starting after the given sequence.
+         * @param listener the listener events are passed to
+         * @param start    the sequence of the last event to skip
+         */
+        private Subscription(GameEventListener listener, long start) {
+            this.listener = listener;
+            this.sequence = new AtomicLong(start);
+        }
+
+        /**
+         * Drains published events in batches until the bus is closed and fully consumed.
+         */
+        private void run() {
+            long seq = sequence.get();
+            int idle = 0;
+            while (true) {
+                boolean done = closed;
+                long available = cursor.get();
+                if (available > seq) {
+                    for (long s = seq + 1; s <= available; s++) {
+                        try {
+                            listener.onEvent(ring[(int) (s & mask)], s == available);
+                        } catch (RuntimeException e) {
+                            // A failing listener must not stall the producer
+                            e.printStackTrace();
+                        }
+                    }
+                    seq = available;
+                    sequence.set(seq);
+                    wakeWaiter();
+                    idle = 0;
+                } else if (done) {
+                    finished = true;
+                    wakeWaiter();
+                    return;
+                } else if (idle++ < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    // Announce the park before re-checking, so a publish in between unparks us
+                    parked = true;
+                    if (cursor.get() == seq && !closed) LockSupport.park(this);
+                    parked = false;
+                }
+            }
+        }
+
+        /**
+         * Unparks the thread waiting in {@link #awaitProcessed(long)}, if any.
+         */
+        private void wakeWaiter() {
+            Thread w = waiter;
+            if (w != null) LockSupport.unpark(w);
+        }
+
+        /**
+         * Waits until this subscriber has processed the given event.
+         * Used by the console input loop so the prompt is printed after the output it follows.
+         * The caller parks until the consumer signals progress; only one thread may wait at a time.
+         * @param target the sequence to wait for
+         */
+        public void awaitProcessed(long target) {
+            waiter = Thread.currentThread();
+            try {
+                while (sequence.get() < target && !finished) LockSupport.park(this);
+            } finally {
+                waiter = null;
+            }
+        }
+    }
+}
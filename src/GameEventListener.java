@@ -0,0 +1,11 @@
+/**
+ * Receives events from a {@link GameEventBus} on the consumer's own thread.
+ */
+public interface GameEventListener {
+    /**
+     * Handles one event. The event object is a reused ring buffer slot and is only valid during this call.
+     * @param event      the event
+     * @param endOfBatch true if this is the last event currently available, e.g. to flush output
+     */
+    void onEvent(GameEvent event, boolean endOfBatch);
+}
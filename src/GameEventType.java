@@ -0,0 +1,22 @@
+/**
+ * Enumeration of the events published by the game rules.
+ * Consumers such as the console renderer react to these instead of the rules printing directly.
+ */
+public enum GameEventType {
+    /** A new round started and the doors were rolled. */
+    ROUND_START,
+    /** A player moved into a neighbouring room. */
+    MOVED,
+    /** A player tried to move but was not allowed to. */
+    BLOCKED,
+    /** A player found a Penalty item and lost a life. */
+    TRAP,
+    /** A player found a LifeBoost item and added it to the inventory. */
+    LIFE_BOOST,
+    /** A player revisited a room alone and lost a life. */
+    REVISIT_PENALTY,
+    /** A player reached the exit. */
+    WIN,
+    /** All players lost all lives, or the rounds ran out. */
+    LOSE
+}